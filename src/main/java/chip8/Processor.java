@@ -69,6 +69,9 @@ public class Processor {
                     0xF0, 0x80, 0xF0, 0x80, 0x80  // F
             };
 
+    // random source for CXNN, replace with a seeded one for reproducible runs
+    private Random random = new Random();
+
     // flag to indicate if need to call draw()
     boolean drawFlag;
 
@@ -319,8 +322,7 @@ public class Processor {
                 break;
 
             case 0xC000: // CXNN sets VX to bitwise on a random number with NN, Vx = rand()&NN
-                Random rand = new Random();
-                register[OP_X(opcode)] = (char)(rand.nextInt(256) & OP_NN(opcode));
+                register[OP_X(opcode)] = (char)(random.nextInt(256) & OP_NN(opcode));
                 pc += 2;
                 break;
 
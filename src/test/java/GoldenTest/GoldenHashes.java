@@ -0,0 +1,73 @@
+package GoldenTest;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Read and write the golden hash file.
+ * Keys are ROM file names, which may hold spaces, ':' or '=', so they are
+ * escaped by Properties.store() and written in key order to keep diffs small.
+ */
+public final class GoldenHashes {
+    private static final String HEADER = "# screen hashes per ROM and cycle count, regenerate with -Dchip8.golden.update=true";
+
+    private GoldenHashes() {
+    }
+
+    /**
+     * load golden hashes, a missing file gives an empty map.
+     */
+    public static Map<String, String> load(File file) throws IOException {
+        Map<String, String> hashes = new TreeMap<>();
+        if (!file.isFile()) {
+            return hashes;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            hashes.put(key, properties.getProperty(key));
+        }
+        return hashes;
+    }
+
+    /**
+     * store golden hashes, one escaped line per key in key order.
+     */
+    public static void store(Map<String, String> hashes, File file) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1)) {
+            out.write(HEADER + "\n");
+            for (Map.Entry<String, String> entry : new TreeMap<>(hashes).entrySet()) {
+                out.write(escape(entry.getKey(), entry.getValue()) + "\n");
+            }
+        }
+    }
+
+    /**
+     * one key=value line escaped the way Properties.store() does it.
+     */
+    private static String escape(String key, String value) throws IOException {
+        Properties single = new Properties();
+        single.setProperty(key, value);
+        StringWriter buffer = new StringWriter();
+        single.store(buffer, null);
+        // skip the timestamp comment store() writes first
+        for (String line : buffer.toString().split("\\R")) {
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                return line;
+            }
+        }
+        throw new IOException("key: " + key + " cannot be stored");
+    }
+}
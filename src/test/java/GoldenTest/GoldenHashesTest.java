@@ -0,0 +1,37 @@
+package GoldenTest;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks that golden hash keys survive a store and load.
+ */
+public class GoldenHashesTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStoreLoadRoundTrip() throws Exception {
+        Map<String, String> hashes = new TreeMap<>();
+        hashes.put("Brix [Andreas Gustafsson, 1990].ch8.10", "1d7d6916ec529db5");
+        hashes.put("Game: Pong=2.ch8.100", "f0e1d2c3b4a59687");
+        hashes.put("#hash !bang.ch8.1", "0000000000000001");
+        hashes.put("smiley.ch8.1", "1632c545c6ff565b");
+
+        File file = new File(folder.getRoot(), "hashes.properties");
+        GoldenHashes.store(hashes, file);
+        Assert.assertEquals(hashes, GoldenHashes.load(file));
+    }
+
+    @Test
+    public void testLoadMissingFile() throws Exception {
+        File file = new File(folder.getRoot(), "missing.properties");
+        Assert.assertTrue("missing file gives no hashes", GoldenHashes.load(file).isEmpty());
+    }
+}
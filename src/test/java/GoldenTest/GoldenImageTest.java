@@ -0,0 +1,190 @@
+package GoldenTest;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Run every ROM in src/test/resources/roms and compare screen hashes
+ * against src/test/resources/golden/hashes.properties.
+ *
+ * On a mismatch the actual screen and a diff against the golden PNG are
+ * written to build/golden-diff, which is emptied at the start of each run.
+ * Golden hashes without a matching ROM and checkpoint also fail the test.
+ * Run with -Dchip8.golden.update=true to record new golden hashes and images;
+ * golden PNGs that no longer belong to a ROM and checkpoint are deleted.
+ */
+public class GoldenImageTest {
+    private static final File ROM_DIR = new File("./src/test/resources/roms");
+    private static final File GOLDEN_DIR = new File("./src/test/resources/golden");
+    private static final File GOLDEN_HASHES = new File(GOLDEN_DIR, "hashes.properties");
+    private static final File DIFF_DIR = new File("./build/golden-diff");
+
+    // cycles to run before each screen capture
+    private static final int[] CHECKPOINTS = {1, 10, 100, 1000};
+
+    private static final boolean UPDATE = Boolean.getBoolean("chip8.golden.update");
+
+    private static Map<String, String> golden;
+
+    @BeforeClass
+    public static void loadGolden() throws IOException {
+        golden = GoldenHashes.load(GOLDEN_HASHES);
+    }
+
+    @Test
+    public void testRomsMatchGolden() throws Exception {
+        File[] roms = ROM_DIR.listFiles(File::isFile);
+        Assert.assertNotNull("rom directory: " + ROM_DIR + " doesn't exist", roms);
+        Arrays.sort(roms);
+        clearDiffs();
+
+        ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<Future<RomRunner.Result>> results = new ArrayList<>();
+        try {
+            for (File rom : roms) {
+                results.add(pool.submit(() -> RomRunner.run(rom, CHECKPOINTS)));
+            }
+
+            Map<String, String> actual = new TreeMap<>();
+            List<String> failures = new ArrayList<>();
+            for (int i = 0; i < roms.length; i++) {
+                RomRunner.Result result;
+                try {
+                    result = results.get(i).get();
+                } catch (ExecutionException e) {
+                    failures.add(roms[i].getName() + ": crashed with " + describe(e.getCause()));
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                for (int c = 0; c < CHECKPOINTS.length; c++) {
+                    String key = key(roms[i], CHECKPOINTS[c]);
+                    actual.put(key, ScreenHash.toHex(result.hashes[c]));
+                    if (UPDATE) {
+                        ScreenImage.write(ScreenImage.render(result.screens[c]), new File(GOLDEN_DIR, key + ".png"));
+                    } else {
+                        String failure = compare(key, result.hashes[c], result.screens[c]);
+                        if (failure != null) {
+                            failures.add(failure);
+                        }
+                    }
+                }
+            }
+
+            if (UPDATE) {
+                GoldenHashes.store(actual, GOLDEN_HASHES);
+                pruneGoldenImages(actual.keySet());
+            } else {
+                failures.addAll(staleGolden(roms));
+            }
+            Assert.assertTrue(failures.size() + " golden mismatches:\n" + String.join("\n", failures),
+                    failures.isEmpty());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * golden keys that no longer belong to a ROM and checkpoint in this run.
+     */
+    private static List<String> staleGolden(File[] roms) {
+        Set<String> expected = new HashSet<>();
+        for (File rom : roms) {
+            for (int cycles : CHECKPOINTS) {
+                expected.add(key(rom, cycles));
+            }
+        }
+        List<String> stale = new ArrayList<>();
+        for (String key : new TreeSet<>(golden.keySet())) {
+            if (!expected.contains(key)) {
+                stale.add(key + ": golden hash has no matching ROM or checkpoint");
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * delete golden PNGs whose key was not recorded in this update.
+     */
+    private static void pruneGoldenImages(Set<String> keys) throws IOException {
+        File[] images = GOLDEN_DIR.listFiles((dir, name) -> name.endsWith(".png"));
+        if (images == null) {
+            return;
+        }
+        for (File image : images) {
+            String key = image.getName().substring(0, image.getName().length() - ".png".length());
+            if (!keys.contains(key) && !image.delete()) {
+                throw new IOException("file: " + image + " cannot be deleted");
+            }
+        }
+    }
+
+    /**
+     * remove diff images left over from an earlier run.
+     */
+    private static void clearDiffs() throws IOException {
+        File[] old = DIFF_DIR.listFiles();
+        if (old == null) {
+            return;
+        }
+        for (File file : old) {
+            if (!file.delete()) {
+                throw new IOException("file: " + file + " cannot be deleted");
+            }
+        }
+    }
+
+    /**
+     * exception plus the frame that threw it, for the failure summary.
+     */
+    private static String describe(Throwable cause) {
+        StackTraceElement[] trace = cause.getStackTrace();
+        return trace.length > 0 ? cause + " at " + trace[0] : cause.toString();
+    }
+
+    /**
+     * check one checkpoint, writing PNGs to the diff directory on a mismatch.
+     * @return failure message, or null if the hash matches
+     */
+    private String compare(String key, long hash, char[] screen) throws IOException {
+        String expected = golden.get(key);
+        if (expected != null && ScreenHash.fromHex(expected) == hash) {
+            return null;
+        }
+
+        ScreenImage.write(ScreenImage.render(screen), new File(DIFF_DIR, key + ".actual.png"));
+        if (expected == null) {
+            return key + ": no golden hash, actual " + ScreenHash.toHex(hash);
+        }
+
+        String message = key + ": expected " + expected + " actual " + ScreenHash.toHex(hash);
+        File goldenImage = new File(GOLDEN_DIR, key + ".png");
+        if (goldenImage.isFile()) {
+            char[] goldenScreen = ScreenImage.read(goldenImage);
+            ScreenImage.write(ScreenImage.diff(goldenScreen, screen), new File(DIFF_DIR, key + ".diff.png"));
+            message += " (" + ScreenImage.countDiff(goldenScreen, screen) + " pixels differ)";
+        }
+        return message;
+    }
+
+    private static String key(File rom, int cycles) {
+        return rom.getName() + "." + cycles;
+    }
+}
@@ -0,0 +1,81 @@
+package GoldenTest;
+
+import chip8.Processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Run ROMs headless and capture the screen at fixed cycle checkpoints.
+ * The random source is seeded from the ROM name, so ROMs using CXNN
+ * render the same screens on every run.
+ */
+public class RomRunner {
+    // program space is 0x200 - 0xFFF
+    private static final int MAX_ROM_SIZE = 4096 - 0x200;
+
+    /**
+     * Screens captured at each checkpoint of one run.
+     */
+    public static class Result {
+        public final long[] hashes;
+        public final char[][] screens;
+
+        Result(int checkpoints) {
+            hashes = new long[checkpoints];
+            screens = new char[checkpoints][];
+        }
+    }
+
+    /**
+     * run a ROM from power on and capture the screen after each checkpoint.
+     * @param rom ROM file
+     * @param checkpoints cycle counts in increasing order
+     * @return hashes and screen copies, one per checkpoint
+     * @throws IOException if the ROM cannot be loaded completely
+     */
+    public static Result run(File rom, int[] checkpoints) throws IOException {
+        Processor cpu = new Processor();
+        cpu.init();
+        cpu.setRandom(new Random(rom.getName().hashCode()));
+        load(cpu, rom);
+
+        Result result = new Result(checkpoints.length);
+        int cycles = 0;
+        for (int i = 0; i < checkpoints.length; i++) {
+            for (; cycles < checkpoints[i]; cycles++) {
+                cpu.run();
+            }
+            // clearScreen() swaps the array, so always read the current one
+            char[] screen = cpu.getScreen();
+            result.hashes[i] = ScreenHash.hash(screen);
+            result.screens[i] = screen.clone();
+        }
+        return result;
+    }
+
+    /**
+     * load a ROM, failing instead of running an empty program.
+     * Processor.loadProgram() only prints when it gives up.
+     */
+    private static void load(Processor cpu, File rom) throws IOException {
+        if (!rom.isFile() || !rom.canRead()) {
+            throw new IOException("file: " + rom + " cannot be read from");
+        }
+        if (rom.length() > MAX_ROM_SIZE) {
+            throw new IOException("file: " + rom + " is " + rom.length() + " bytes, memory: " + MAX_ROM_SIZE);
+        }
+
+        cpu.loadProgram(rom.getPath());
+
+        byte[] bytes = Files.readAllBytes(rom.toPath());
+        char[] memory = cpu.getMemory();
+        for (int i = 0; i < bytes.length; i++) {
+            if (memory[0x200 + i] != (bytes[i] & 0xFF)) {
+                throw new IOException("file: " + rom + " was not loaded, memory differs at byte " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package GoldenTest;
+
+/**
+ * 64-bit hash of the chip8 screen buffer.
+ * Pixels are packed 64 to a long (one screen row each) before mixing,
+ * so a whole frame is hashed in 32 steps instead of 2048.
+ *
+ * This is an FNV-style word hash, not FNV-1a: each row is XORed in as a
+ * whole 64-bit word, and an extra xor-shift spreads the high bits back
+ * down. It will not match a reference FNV-1a implementation.
+ */
+public final class ScreenHash {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ScreenHash() {
+    }
+
+    /**
+     * hash a 64 * 32 screen, any non zero pixel counts as lit.
+     * @param screen pixels from Processor.getScreen()
+     * @return 64-bit hash
+     */
+    public static long hash(char[] screen) {
+        long hash = FNV_OFFSET;
+        for (int row = 0; row < ScreenImage.HEIGHT; row++) {
+            long bits = 0;
+            int base = row * ScreenImage.WIDTH;
+            for (int col = 0; col < ScreenImage.WIDTH; col++) {
+                if (screen[base + col] != 0) {
+                    bits |= 1L << col;
+                }
+            }
+            hash ^= bits;
+            hash *= FNV_PRIME;
+            hash ^= hash >>> 29;
+        }
+        return hash;
+    }
+
+    /**
+     * format a hash the way it is stored in the golden file.
+     */
+    public static String toHex(long hash) {
+        return String.format("%016x", hash);
+    }
+
+    /**
+     * parse a hash stored in the golden file.
+     */
+    public static long fromHex(String hex) {
+        return Long.parseUnsignedLong(hex.trim(), 16);
+    }
+}
@@ -0,0 +1,30 @@
+package GoldenTest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks the screen hash and its golden file encoding.
+ */
+public class ScreenHashTest {
+
+    @Test
+    public void testOnePixelChangesHash() {
+        char[] screen = new char[64 * 32];
+        long blank = ScreenHash.hash(screen);
+        for (int i : new int[] {0, 63, 64, 1000, 2047}) {
+            screen[i] = 1;
+            Assert.assertNotEquals("pixel " + i, blank, ScreenHash.hash(screen));
+            screen[i] = 0;
+        }
+        Assert.assertEquals(blank, ScreenHash.hash(screen));
+    }
+
+    @Test
+    public void testHexRoundTrip() {
+        long hash = 0xF0E1D2C3B4A59687L; // high bit set
+        Assert.assertEquals("f0e1d2c3b4a59687", ScreenHash.toHex(hash));
+        Assert.assertEquals(hash, ScreenHash.fromHex(ScreenHash.toHex(hash)));
+        Assert.assertEquals(1L, ScreenHash.fromHex("0000000000000001"));
+    }
+}
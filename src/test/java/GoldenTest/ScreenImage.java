@@ -0,0 +1,91 @@
+package GoldenTest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Convert chip8 screens to and from PNG, and build diff images.
+ */
+public final class ScreenImage {
+    public static final int WIDTH = 64;
+    public static final int HEIGHT = 32;
+
+    private static final int OFF = 0xFF000000;
+    private static final int ON = 0xFFFFFFFF;
+    private static final int MISSING = 0xFFFF0000; // lit in golden only
+    private static final int EXTRA = 0xFF00FF00;   // lit in actual only
+
+    private ScreenImage() {
+    }
+
+    /**
+     * render a screen as a black and white image.
+     */
+    public static BufferedImage render(char[] screen) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int i = 0; i < WIDTH * HEIGHT; i++) {
+            image.setRGB(i % WIDTH, i / WIDTH, screen[i] != 0 ? ON : OFF);
+        }
+        return image;
+    }
+
+    /**
+     * read back a screen written by render(), pixels brighter than half are lit.
+     */
+    public static char[] read(File file) throws IOException {
+        BufferedImage image = ImageIO.read(file);
+        if (image == null || image.getWidth() != WIDTH || image.getHeight() != HEIGHT) {
+            throw new IOException("file: " + file + " is not a " + WIDTH + "x" + HEIGHT + " screen image");
+        }
+        char[] screen = new char[WIDTH * HEIGHT];
+        for (int i = 0; i < screen.length; i++) {
+            int rgb = image.getRGB(i % WIDTH, i / WIDTH);
+            int luma = ((rgb >> 16 & 0xFF) + (rgb >> 8 & 0xFF) + (rgb & 0xFF)) / 3;
+            screen[i] = (char)(luma > 0x7F ? 1 : 0);
+        }
+        return screen;
+    }
+
+    /**
+     * pixels lit in both are white, lit only in golden are red, lit only in actual are green.
+     * @param expected golden screen
+     * @param actual rendered screen
+     * @return diff image
+     */
+    public static BufferedImage diff(char[] expected, char[] actual) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int i = 0; i < WIDTH * HEIGHT; i++) {
+            boolean was = expected[i] != 0;
+            boolean is = actual[i] != 0;
+            int color = was == is ? (is ? ON : OFF) : (was ? MISSING : EXTRA);
+            image.setRGB(i % WIDTH, i / WIDTH, color);
+        }
+        return image;
+    }
+
+    /**
+     * count the pixels that differ between two screens.
+     */
+    public static int countDiff(char[] expected, char[] actual) {
+        int count = 0;
+        for (int i = 0; i < WIDTH * HEIGHT; i++) {
+            if ((expected[i] != 0) != (actual[i] != 0)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * write an image as PNG, creating parent directories.
+     */
+    public static void write(BufferedImage image, File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("directory: " + parent + " cannot be created");
+        }
+        ImageIO.write(image, "png", file);
+    }
+}
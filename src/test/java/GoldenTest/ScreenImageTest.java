@@ -0,0 +1,60 @@
+package GoldenTest;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+/**
+ * Checks the PNG and diff helpers used when a golden hash mismatches.
+ */
+public class ScreenImageTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    char[] screen;
+
+    @Before
+    public void setup() {
+        screen = new char[64 * 32];
+        screen[0] = 1;           // top left
+        screen[63] = 1;          // top right
+        screen[5 * 64 + 10] = 1; // (10, 5)
+        screen[2047] = 1;        // bottom right
+    }
+
+    @Test
+    public void testRenderReadRoundTrip() throws Exception {
+        File file = folder.newFile("screen.png");
+        ScreenImage.write(ScreenImage.render(screen), file);
+        Assert.assertArrayEquals(screen, ScreenImage.read(file));
+    }
+
+    @Test
+    public void testDiffColors() {
+        char[] actual = screen.clone();
+        actual[0] = 0;           // lit in golden only
+        actual[64 + 1] = 1;      // (1, 1) lit in actual only
+
+        BufferedImage diff = ScreenImage.diff(screen, actual);
+        Assert.assertEquals(0xFF0000, diff.getRGB(0, 0) & 0xFFFFFF);   // red
+        Assert.assertEquals(0x00FF00, diff.getRGB(1, 1) & 0xFFFFFF);   // green
+        Assert.assertEquals(0xFFFFFF, diff.getRGB(10, 5) & 0xFFFFFF);  // lit in both
+        Assert.assertEquals(0x000000, diff.getRGB(2, 2) & 0xFFFFFF);   // off in both
+    }
+
+    @Test
+    public void testCountDiff() {
+        char[] actual = screen.clone();
+        Assert.assertEquals(0, ScreenImage.countDiff(screen, actual));
+
+        actual[0] = 0;
+        actual[100] = 1;
+        actual[2046] = 1;
+        Assert.assertEquals(3, ScreenImage.countDiff(screen, actual));
+    }
+}